@@ -0,0 +1,211 @@
+package io.github.renatolsjf.utils.string.casestring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+abstract class CaseBuffer {
+
+    protected StringBuffer valueBuffer = new StringBuffer();
+    protected List<Character> supportedDelimiters = new ArrayList<>();
+    protected boolean lastCharWasDelimiter = false;
+    protected CaseString.CaseType type;
+    protected CaseBuffer prefixBuffer;
+    protected int prefixLength = 0;
+
+    CaseBuffer(CaseString.CaseType type) {
+        this.type = type;
+        this.supportedDelimiters.add('-');
+        this.supportedDelimiters.add('_');
+        this.supportedDelimiters.add(' ');
+    }
+
+    static List<CaseBuffer> createBuffers() {
+        List<CaseBuffer> buffers = new ArrayList<>();
+        buffers.add(new KebabCaseBuffer());
+        buffers.add(new SnakeCaseBuffer());
+        buffers.add(new CamelCaseBuffer());
+        buffers.add(new PascalCaseBuffer());
+        buffers.add(new SpacedCaseBuffer());
+        return buffers;
+    }
+
+    static List<CaseBuffer> extendBuffers(List<CaseBuffer> prefixBuffers) {
+        List<CaseBuffer> buffers = CaseBuffer.createBuffers();
+        for (int i = 0; i < buffers.size(); i++) {
+            buffers.get(i).extend(prefixBuffers.get(i));
+        }
+        return buffers;
+    }
+
+    static List<CaseBuffer> copyBuffers(List<CaseBuffer> sourceBuffers) {
+        List<CaseBuffer> buffers = CaseBuffer.createBuffers();
+        for (int i = 0; i < buffers.size(); i++) {
+            buffers.get(i).copy(sourceBuffers.get(i));
+        }
+        return buffers;
+    }
+
+    void next(char c) {
+        if (this.supportedDelimiters.contains(c)) {
+            if (this.isEmpty() || this.lastCharWasDelimiter) {
+                return;
+            } else {
+                this.lastCharWasDelimiter = true;
+            }
+        } else if(Character.isUpperCase(c)) {
+            this.appendUpperCase(c);
+            this.lastCharWasDelimiter = false;
+        } else {
+            this.appendLowerCase(c);
+            this.lastCharWasDelimiter = false;
+        }
+    }
+
+    abstract void appendUpperCase(char c);
+    abstract void appendLowerCase(char c);
+
+    /**
+     * Makes this buffer continue from the current value of another buffer of the same CaseType.
+     * The prefix is not copied: only its current length is kept, which stays valid since buffers are append only.
+     */
+    void extend(CaseBuffer prefixBuffer) {
+        this.prefixBuffer = prefixBuffer;
+        this.prefixLength = prefixBuffer.length();
+        this.lastCharWasDelimiter = prefixBuffer.lastCharWasDelimiter;
+    }
+
+    boolean isEmpty() {
+        return this.prefixLength == 0 && this.valueBuffer.isEmpty();
+    }
+
+    int length() {
+        return this.prefixLength + this.valueBuffer.length();
+    }
+
+    /**
+     * Makes this buffer hold its own copy of the current value of another buffer of the same CaseType,
+     * so it no longer depends on that buffer or on any of its prefixes.
+     */
+    void copy(CaseBuffer source) {
+        this.valueBuffer.append(source.bufferValue());
+        this.lastCharWasDelimiter = source.lastCharWasDelimiter;
+    }
+
+    String bufferValue() {
+        if (this.prefixBuffer == null) {
+            return this.valueBuffer.toString();
+        }
+        // Fills the value from the end, walking up the prefixes, as deep prefix chains must not overflow the stack
+        char[] value = new char[this.length()];
+        int end = value.length;
+        for (CaseBuffer b = this; b != null && end > 0; b = b.prefixBuffer) {
+            if (end > b.prefixLength) {
+                b.valueBuffer.getChars(0, end - b.prefixLength, value, b.prefixLength);
+                end = b.prefixLength;
+            }
+        }
+        return new String(value);
+    }
+
+    @Override
+    public String toString() {
+        return this.bufferValue();
+    }
+
+    public boolean isOfCaseType(CaseString.CaseType type) {
+        return this.type.equals(type);
+    }
+
+}
+
+abstract class SeparatorCaseBuffer extends CaseBuffer {
+
+    protected String selectedDelimiter;
+
+    SeparatorCaseBuffer(CaseString.CaseType type, String selectedDelimiter) {
+        super(type);
+        this.selectedDelimiter = selectedDelimiter;
+    }
+
+    @Override
+    void appendUpperCase(char c) {
+        if(!(this.isEmpty()) && this.selectedDelimiter != null) {
+            this.valueBuffer.append(this.selectedDelimiter);
+        }
+        this.valueBuffer.append(Character.toLowerCase(c));
+    }
+
+    @Override
+    void appendLowerCase(char c) {
+        if (this.lastCharWasDelimiter && this.selectedDelimiter != null) {
+            this.valueBuffer.append(this.selectedDelimiter);
+        }
+        this.valueBuffer.append(c);
+    }
+
+}
+
+class KebabCaseBuffer extends SeparatorCaseBuffer {
+    KebabCaseBuffer() {
+        super(CaseString.CaseType.KEBAB, "-");
+    }
+}
+
+class SnakeCaseBuffer extends SeparatorCaseBuffer {
+    SnakeCaseBuffer() {
+        super(CaseString.CaseType.SNAKE, "_");
+    }
+}
+
+class SpacedCaseBuffer extends SeparatorCaseBuffer {
+    SpacedCaseBuffer() {super(CaseString.CaseType.SPACED, " ");}
+}
+
+class CamelCaseBuffer extends CaseBuffer {
+
+    CamelCaseBuffer() {
+        super(CaseString.CaseType.CAMEL);
+    }
+
+    @Override
+    void appendUpperCase(char c) {
+        if(!(this.isEmpty())) {
+            this.valueBuffer.append(c);
+        } else {
+            this.valueBuffer.append(Character.toLowerCase(c));
+        }
+
+    }
+
+    @Override
+    void appendLowerCase(char c) {
+        if (this.lastCharWasDelimiter) {
+            this.valueBuffer.append(Character.toUpperCase(c));
+        } else {
+            this.valueBuffer.append(c);
+        }
+    }
+
+}
+
+class PascalCaseBuffer extends CaseBuffer {
+
+    PascalCaseBuffer() {
+        super(CaseString.CaseType.PASCAL);
+    }
+
+    @Override
+    void appendUpperCase(char c) {
+        this.valueBuffer.append(c);
+    }
+
+    @Override
+    void appendLowerCase(char c) {
+        if (this.lastCharWasDelimiter || this.isEmpty()) {
+            this.valueBuffer.append(Character.toUpperCase(c));
+        } else {
+            this.valueBuffer.append(c);
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package io.github.renatolsjf.utils.string.casestring;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,15 +27,16 @@ public class CaseString {
         SPACED
     }
 
-    private List<CaseBuffer> buffers = new ArrayList<>();
+    private List<CaseBuffer> buffers;
     private String input;
 
     private CaseString() {
-        this.buffers.add(new KebabCaseBuffer());
-        this.buffers.add(new SnakeCaseBuffer());
-        this.buffers.add(new CamelCaseBuffer());
-        this.buffers.add(new PascalCaseBuffer());
-        this.buffers.add(new SpacedCaseBuffer());
+        this(CaseBuffer.createBuffers(), null);
+    }
+
+    CaseString(List<CaseBuffer> buffers, String input) {
+        this.buffers = buffers;
+        this.input = input;
     }
 
     /**
@@ -203,6 +203,15 @@ public class CaseString {
 
     }
 
+    /**
+     * Creates a CaseStringBuilder, which parses its input incrementally as chunks or words are appended.
+     * Building the result is equivalent to parsing the concatenated input with CaseString.parse
+     * @return An empty CaseStringBuilder
+     */
+    public static CaseStringBuilder builder() {
+        return new CaseStringBuilder();
+    }
+
     /**
      * Parses the given String directly to a CaseType
      * @param caseType The CaseType which will be used to parse the given String
@@ -260,143 +269,3 @@ public class CaseString {
     }
 
 }
-
-abstract class CaseBuffer {
-
-    protected StringBuffer valueBuffer = new StringBuffer();
-    protected List<Character> supportedDelimiters = new ArrayList<>();
-    protected boolean lastCharWasDelimiter = false;
-    protected CaseString.CaseType type;
-
-    CaseBuffer(CaseString.CaseType type) {
-        this.type = type;
-        this.supportedDelimiters.add('-');
-        this.supportedDelimiters.add('_');
-        this.supportedDelimiters.add(' ');
-    }
-
-    void next(char c) {
-        if (this.supportedDelimiters.contains(c)) {
-            if (this.valueBuffer.isEmpty() || this.lastCharWasDelimiter) {
-                return;
-            } else {
-                this.lastCharWasDelimiter = true;
-            }
-        } else if(Character.isUpperCase(c)) {
-            this.appendUpperCase(c);
-            this.lastCharWasDelimiter = false;
-        } else {
-            this.appendLowerCase(c);
-            this.lastCharWasDelimiter = false;
-        }
-    }
-
-    abstract void appendUpperCase(char c);
-    abstract void appendLowerCase(char c);
-
-    String bufferValue() {
-        return this.valueBuffer.toString();
-    }
-
-    @Override
-    public String toString() {
-        return this.bufferValue();
-    }
-
-    public boolean isOfCaseType(CaseString.CaseType type) {
-        return this.type.equals(type);
-    }
-
-}
-
-abstract class SeparatorCaseBuffer extends CaseBuffer {
-
-    protected String selectedDelimiter;
-
-    SeparatorCaseBuffer(CaseString.CaseType type, String selectedDelimiter) {
-        super(type);
-        this.selectedDelimiter = selectedDelimiter;
-    }
-
-    @Override
-    void appendUpperCase(char c) {
-        if(!(this.valueBuffer.isEmpty()) && this.selectedDelimiter != null) {
-            this.valueBuffer.append(this.selectedDelimiter);
-        }
-        this.valueBuffer.append(Character.toLowerCase(c));
-    }
-
-    @Override
-    void appendLowerCase(char c) {
-        if (this.lastCharWasDelimiter && this.selectedDelimiter != null) {
-            this.valueBuffer.append(this.selectedDelimiter);
-        }
-        this.valueBuffer.append(c);
-    }
-
-}
-
-class KebabCaseBuffer extends SeparatorCaseBuffer {
-    KebabCaseBuffer() {
-        super(CaseString.CaseType.KEBAB, "-");
-    }
-}
-
-class SnakeCaseBuffer extends SeparatorCaseBuffer {
-    SnakeCaseBuffer() {
-        super(CaseString.CaseType.SNAKE, "_");
-    }
-}
-
-class SpacedCaseBuffer extends SeparatorCaseBuffer {
-    SpacedCaseBuffer() {super(CaseString.CaseType.SPACED, " ");}
-}
-
-class CamelCaseBuffer extends CaseBuffer {
-
-    CamelCaseBuffer() {
-        super(CaseString.CaseType.CAMEL);
-    }
-
-    @Override
-    void appendUpperCase(char c) {
-        if(!(this.valueBuffer.isEmpty())) {
-            this.valueBuffer.append(c);
-        } else {
-            this.valueBuffer.append(Character.toLowerCase(c));
-        }
-
-    }
-
-    @Override
-    void appendLowerCase(char c) {
-        if (this.lastCharWasDelimiter) {
-            this.valueBuffer.append(Character.toUpperCase(c));
-        } else {
-            this.valueBuffer.append(c);
-        }
-    }
-
-}
-
-class PascalCaseBuffer extends CaseBuffer {
-
-    PascalCaseBuffer() {
-        super(CaseString.CaseType.PASCAL);
-    }
-
-    @Override
-    void appendUpperCase(char c) {
-        this.valueBuffer.append(c);
-    }
-
-    @Override
-    void appendLowerCase(char c) {
-        if (this.lastCharWasDelimiter || this.valueBuffer.isEmpty()) {
-            this.valueBuffer.append(Character.toUpperCase(c));
-        } else {
-            this.valueBuffer.append(c);
-        }
-    }
-
-}
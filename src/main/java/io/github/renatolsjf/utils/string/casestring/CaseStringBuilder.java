@@ -0,0 +1,110 @@
+package io.github.renatolsjf.utils.string.casestring;
+
+import java.util.List;
+
+/**
+ * Builds a CaseString incrementally. Each appended chunk is parsed as it arrives, carrying the parsing state
+ * across chunk boundaries, so the input already appended is never parsed again. Building the CaseString produces
+ * the same results as parsing the concatenated input with CaseString.parse
+ */
+public class CaseStringBuilder {
+
+    private final List<CaseBuffer> buffers;
+    private final StringBuilder input = new StringBuilder();
+    private final CaseStringBuilder parent;
+    private final int parentInputLength;
+
+    CaseStringBuilder() {
+        this.buffers = CaseBuffer.createBuffers();
+        this.parent = null;
+        this.parentInputLength = 0;
+    }
+
+    private CaseStringBuilder(CaseStringBuilder parent) {
+        this.buffers = CaseBuffer.extendBuffers(parent.buffers);
+        this.parent = parent;
+        this.parentInputLength = parent.inputLength();
+    }
+
+    /**
+     * Appends a chunk of input, as if it was concatenated to the input appended so far.
+     * E.g: appending "user" and then "Name" is the same as parsing "userName"
+     * @param chunk A String to be appended
+     * @return This CaseStringBuilder
+     */
+    public CaseStringBuilder append(String chunk) {
+
+        if (chunk == null) {
+            throw new NullPointerException();
+        }
+
+        for (int i = 0; i < chunk.length(); i++) {
+            this.next(chunk.charAt(i));
+        }
+
+        return this;
+
+    }
+
+    /**
+     * Appends a whole word, separated by a space from the input appended so far, if any.
+     * E.g: appending the words "user" and "name" is the same as parsing "user name"
+     * @param word A String to be appended as a new word
+     * @return This CaseStringBuilder
+     */
+    public CaseStringBuilder appendWord(String word) {
+
+        if (word == null) {
+            throw new NullPointerException();
+        }
+
+        if (!word.isEmpty() && this.inputLength() > 0) {
+            this.next(' ');
+        }
+
+        return this.append(word);
+
+    }
+
+    /**
+     * Creates a new CaseStringBuilder that starts from the input appended so far. The input is shared, not copied,
+     * and both CaseStringBuilders can be appended to independently afterwards.
+     * This is useful to create several CaseStrings from a common prefix
+     * @return A new CaseStringBuilder starting from the current state of this CaseStringBuilder
+     */
+    public CaseStringBuilder derive() {
+        return new CaseStringBuilder(this);
+    }
+
+    /**
+     * Creates a CaseString from the input appended so far. The created CaseString holds its own copy of the
+     * parsed values, so appending to this CaseStringBuilder afterwards does not affect it
+     * @return A CaseString equivalent to parsing the concatenated input
+     */
+    public CaseString build() {
+        return new CaseString(CaseBuffer.copyBuffers(this.buffers), this.inputValue());
+    }
+
+    private void next(char c) {
+        this.input.append(c);
+        this.buffers.forEach(b -> b.next(c));
+    }
+
+    private int inputLength() {
+        return this.parentInputLength + this.input.length();
+    }
+
+    private String inputValue() {
+        // Fills the input from the end, walking up the parents, as deep derive chains must not overflow the stack
+        char[] value = new char[this.inputLength()];
+        int end = value.length;
+        for (CaseStringBuilder b = this; b != null && end > 0; b = b.parent) {
+            if (end > b.parentInputLength) {
+                b.input.getChars(0, end - b.parentInputLength, value, b.parentInputLength);
+                end = b.parentInputLength;
+            }
+        }
+        return new String(value);
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.github.renatolsjf.utils.string.casestring;
+
+import org.junit.jupiter.api.Assertions;
+
+class CaseStringBuilderTest {
+
+    @org.junit.jupiter.api.Test
+    void append() {
+
+        String[] chunks = {" This is A rand", "om-piece", "Of string ", "  MADE--", "--to_", "__bReaK"};
+        CaseStringBuilder builder = CaseString.builder();
+        StringBuilder concatenated = new StringBuilder();
+        for (String chunk : chunks) {
+            builder.append(chunk);
+            concatenated.append(chunk);
+            CaseString cs = builder.build();
+            CaseString parsed = CaseString.parse(concatenated.toString());
+            Assertions.assertEquals(parsed, cs);
+            Assertions.assertEquals(parsed.getCaseValues(), cs.getCaseValues());
+        }
+
+        Assertions.assertTrue("this-is-a-random-piece-of-string-m-a-d-e-to-b-rea-k".equals(builder.build().kebab()));
+        Assertions.assertTrue("ThisIsARandomPieceOfStringMADEToBReaK".equals(builder.build().pascal()));
+        Assertions.assertThrows(NullPointerException.class, () -> CaseString.builder().append(null));
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void appendWord() {
+
+        CaseString cs = CaseString.builder()
+                .appendWord("")
+                .appendWord("user")
+                .appendWord("")
+                .appendWord("account")
+                .appendWord("id")
+                .build();
+        Assertions.assertTrue("user account id".equals(cs.original()));
+        Assertions.assertTrue("user_account_id".equals(cs.snake()));
+        Assertions.assertTrue("userAccountId".equals(cs.camel()));
+
+        cs = CaseString.builder().append("get").appendWord("Entity").append("_").appendWord("name").build();
+        Assertions.assertEquals(CaseString.parse("get Entity_ name"), cs);
+        Assertions.assertTrue("get-entity-name".equals(cs.kebab()));
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void derive() {
+
+        CaseStringBuilder prefix = CaseString.builder().append("user-");
+        CaseStringBuilder entity = prefix.derive().append("account");
+        CaseStringBuilder getter = entity.derive().appendWord("id");
+        CaseStringBuilder setter = entity.derive().append("Name");
+        prefix.append("Profile");
+
+        Assertions.assertEquals(CaseString.parse("user-Profile"), prefix.build());
+        Assertions.assertEquals(CaseString.parse("user-account"), entity.build());
+        Assertions.assertEquals(CaseString.parse("user-account id"), getter.build());
+        Assertions.assertEquals(CaseString.parse("user-accountName"), setter.build());
+
+        Assertions.assertTrue("userProfile".equals(prefix.build().camel()));
+        Assertions.assertTrue("user_account".equals(entity.build().snake()));
+        Assertions.assertTrue("UserAccountId".equals(getter.build().pascal()));
+        Assertions.assertTrue("user account name".equals(setter.build().spaced()));
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void deriveDeepChain() {
+
+        CaseStringBuilder builder = CaseString.builder();
+        StringBuilder concatenated = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            String chunk = i % 2 == 0 ? "a" : "-B";
+            builder = builder.derive().append(chunk);
+            concatenated.append(chunk);
+        }
+
+        CaseString cs = builder.build();
+        CaseString parsed = CaseString.parse(concatenated.toString());
+        Assertions.assertEquals(parsed, cs);
+        Assertions.assertEquals(parsed.getCaseValues(), cs.getCaseValues());
+
+    }
+
+    @org.junit.jupiter.api.Test
+    void build() {
+
+        CaseStringBuilder builder = CaseString.builder().append("a key");
+        CaseString cs = builder.build();
+        builder.append("-and more");
+
+        Assertions.assertTrue("a key".equals(cs.original()));
+        Assertions.assertTrue("a-key".equals(cs.kebab()));
+        Assertions.assertTrue("a-key-and-more".equals(builder.build().kebab()));
+        Assertions.assertEquals(CaseString.parse(""), CaseString.builder().build());
+
+    }
+
+}